@@ -0,0 +1,52 @@
+package com.nic.nic.validation.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Growable array of latencies in nanoseconds. One per worker thread, merged after the run.
+ */
+public class LatencyRecorder {
+
+    private long[] values = new long[1 << 14];
+    private int size;
+    private long errors;
+
+    public void record(long nanos, boolean error) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = nanos;
+        if (error) {
+            errors++;
+        }
+    }
+
+    public void addAll(LatencyRecorder other) {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    public int count() {
+        return size;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * Sorts in place; call once all recording is done.
+     */
+    public double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        Arrays.sort(values, 0, size);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return values[Math.clamp(index, 0, size - 1)] / 1_000_000.0;
+    }
+}
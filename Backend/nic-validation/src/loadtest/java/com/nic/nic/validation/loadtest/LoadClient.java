@@ -0,0 +1,67 @@
+package com.nic.nic.validation.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Thin blocking client for the NIC API. Response bodies are discarded unless a token is needed.
+ */
+public class LoadClient {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+
+    public LoadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(loginRequest(username, password), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed for " + username + ": HTTP " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    public int loginStatus(String username, String password) throws IOException, InterruptedException {
+        return httpClient.send(loginRequest(username, password), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public int validate(String token, String nic) throws IOException, InterruptedException {
+        HttpRequest request = authorized(token, "/validate?nic=" + nic)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public int get(String token, String path) throws IOException, InterruptedException {
+        HttpRequest request = authorized(token, path).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest loginRequest(String username, String password) {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String token, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60));
+    }
+}
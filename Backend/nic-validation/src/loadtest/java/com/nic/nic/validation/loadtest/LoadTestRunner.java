@@ -0,0 +1,204 @@
+package com.nic.nic.validation.loadtest;
+
+import com.nic.nic.validation.Main;
+import com.nic.nic.validation.entity.User;
+import com.nic.nic.validation.service.AuthService;
+import com.nic.nic.validation.service.NicRecordService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Boots the application on the in-memory database of the {@code local} profile, seeds users and
+ * records, then drives each scenario from an in-JVM HTTP client for a fixed warm-up and measurement
+ * window. Prints throughput, latency percentiles and allocation rate per scenario and appends the
+ * same numbers to {@code results.csv} so runs on one machine can be compared.
+ *
+ * <p>Allocation is measured for the whole JVM, so it includes the client side of each request.
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "loadtest";
+    private static final String CSV_HEADER = "run,scenario,threads,users,records,ops,errors,opsPerSec,p50Ms,p90Ms,p99Ms,p999Ms,maxMs,allocMbPerSec,allocKbPerOp,gcMs";
+
+    private final int users = Integer.getInteger("loadtest.users", 20);
+    private final int records = Integer.getInteger("loadtest.records", 5000);
+    private final int threads = Integer.getInteger("loadtest.threads", 16);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private final int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+    private final long seed = Long.getLong("loadtest.seed", 42L);
+    private final List<Scenario> scenarios = Scenario.parse(System.getProperty("loadtest.scenarios", "login,validate,list,report-pdf,report-excel,mixed"));
+    private final Path output = Path.of(System.getProperty("loadtest.output", "target/loadtest"));
+    private final String runId = Instant.now().toString();
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run(args);
+    }
+
+    private void run(String[] args) throws Exception {
+        // Command-line arguments, because builder properties are defaults that application.yaml overrides.
+        List<String> appArgs = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--app.event-log.dir=target/loadtest/event-log",
+                "--logging.level.root=WARN"));
+        appArgs.addAll(List.of(args));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Main.class)
+                .profiles("local")
+                .run(appArgs.toArray(String[]::new));
+
+        try {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            LoadClient client = new LoadClient("http://localhost:" + port + "/api/nic");
+
+            long seedStart = System.nanoTime();
+            seed(context);
+            List<Scenario.Session> sessions = login(client);
+            System.out.printf(Locale.ROOT, "Seeded %d users and %d records in %.1f s%n",
+                    users, records, (System.nanoTime() - seedStart) / 1e9);
+            printEnvironment();
+
+            System.out.printf(Locale.ROOT, "%-13s %8s %7s %9s %8s %8s %8s %8s %8s %10s %10s %7s%n",
+                    "scenario", "ops", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "alloc MB/s", "alloc KB/op", "gc ms");
+            for (Scenario scenario : scenarios) {
+                report(scenario, drive(scenario, client, sessions));
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        AuthService authService = context.getBean(AuthService.class);
+        for (int i = 0; i < users; i++) {
+            User user = new User();
+            user.setName("Load Test " + i);
+            user.setUsername(username(i));
+            user.setPassword(PASSWORD);
+            authService.register(user);
+        }
+
+        NicRecordService nicService = context.getBean(NicRecordService.class);
+        NicGenerator generator = new NicGenerator(seed);
+        for (int i = 0; i < records; i++) {
+            nicService.validateByNic(generator.next());
+        }
+    }
+
+    private List<Scenario.Session> login(LoadClient client) throws IOException, InterruptedException {
+        List<Scenario.Session> sessions = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            sessions.add(new Scenario.Session(username(i), PASSWORD, client.login(username(i), PASSWORD)));
+        }
+        return sessions;
+    }
+
+    private Result drive(Scenario scenario, LoadClient client, List<Scenario.Session> sessions) throws Exception {
+        long start = System.nanoTime();
+        long measureFrom = start + warmupSeconds * 1_000_000_000L;
+        long end = measureFrom + durationSeconds * 1_000_000_000L;
+
+        List<Future<LatencyRecorder>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                Scenario.Session session = sessions.get(t % sessions.size());
+                NicGenerator generator = new NicGenerator(seed * 31 + t + scenario.ordinal() * 1_000L);
+                workers.add(executor.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    long now = System.nanoTime();
+                    while (now < end) {
+                        long t0 = now;
+                        boolean error;
+                        try {
+                            error = scenario.execute(client, session, generator) >= 400;
+                        } catch (IOException err) {
+                            error = true;
+                        }
+                        now = System.nanoTime();
+                        if (t0 >= measureFrom) {
+                            recorder.record(now - t0, error);
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+
+            Thread.sleep(Math.max(0, (measureFrom - System.nanoTime()) / 1_000_000));
+            long allocatedBefore = allocatedBytes();
+            long gcBefore = gcMillis();
+            long measureStart = System.nanoTime();
+
+            LatencyRecorder merged = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                merged.addAll(worker.get());
+            }
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+            return new Result(merged, seconds, allocatedBytes() - allocatedBefore, gcMillis() - gcBefore);
+        }
+    }
+
+    private void report(Scenario scenario, Result result) throws IOException {
+        LatencyRecorder latencies = result.latencies();
+        int ops = latencies.count();
+        double opsPerSec = ops / result.seconds();
+        double allocMbPerSec = result.allocatedBytes() / result.seconds() / (1024.0 * 1024.0);
+        double allocKbPerOp = ops == 0 ? 0 : result.allocatedBytes() / 1024.0 / ops;
+        double p50 = latencies.percentileMillis(50);
+        double p90 = latencies.percentileMillis(90);
+        double p99 = latencies.percentileMillis(99);
+        double p999 = latencies.percentileMillis(99.9);
+        double max = latencies.percentileMillis(100);
+
+        System.out.printf(Locale.ROOT, "%-13s %8d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f %10.1f %10.1f %7d%n",
+                scenario.id(), ops, latencies.errors(), opsPerSec, p50, p90, p99, p999, max, allocMbPerSec, allocKbPerOp, result.gcMillis());
+
+        Files.createDirectories(output);
+        Path csv = output.resolve("results.csv");
+        boolean header = Files.notExists(csv);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(csv, StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            if (header) {
+                out.println(CSV_HEADER);
+            }
+            out.printf(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.1f,%.1f,%d%n",
+                    runId, scenario.id(), threads, users, records, ops, latencies.errors(), opsPerSec,
+                    p50, p90, p99, p999, max, allocMbPerSec, allocKbPerOp, result.gcMillis());
+        }
+    }
+
+    private void printEnvironment() {
+        System.out.printf(Locale.ROOT, "Java %s, %d cpus, JVM args %s, %d threads, %d s warm-up, %d s measured%n",
+                Runtime.version(), Runtime.getRuntime().availableProcessors(),
+                ManagementFactory.getRuntimeMXBean().getInputArguments(), threads, warmupSeconds, durationSeconds);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .sum();
+    }
+
+    private static String username(int index) {
+        return "loadtest-user-" + index;
+    }
+
+    private record Result(LatencyRecorder latencies, double seconds, long allocatedBytes, long gcMillis) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.nic.nic.validation.loadtest;
+
+import com.nic.nic.validation.dto.NicBatchResult;
+import com.nic.nic.validation.util.NicBatchValidator;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Single-threaded throughput of {@link NicBatchValidator} on a mix of valid and corrupted records.
+ * Checks first that the SWAR and scalar paths agree on every record.
+ */
+public class NicBatchBenchmark {
+
+    private static final int RECORDS = Integer.getInteger("loadtest.records", 1 << 20);
+    private static final int ROUNDS = Integer.getInteger("loadtest.durationSeconds", 30) / 3 + 1;
+
+    public static void main(String[] args) {
+        ByteBuffer records = NicBatchValidator.pack(generate(RECORDS, Long.getLong("loadtest.seed", 42L)));
+        NicBatchResult swar = new NicBatchResult(RECORDS);
+        NicBatchResult scalar = new NicBatchResult(RECORDS);
+
+        int validSwar = NicBatchValidator.validate(records, swar);
+        int validScalar = NicBatchValidator.validateScalar(records, scalar);
+        if (validSwar != validScalar
+                || !Arrays.equals(swar.getStatus(), scalar.getStatus())
+                || !Arrays.equals(swar.getBirthYear(), scalar.getBirthYear())
+                || !Arrays.equals(swar.getDayOfYear(), scalar.getDayOfYear())) {
+            throw new IllegalStateException("SWAR and scalar results differ");
+        }
+        System.out.printf(Locale.ROOT, "%d records, %d valid, results identical%n", RECORDS, validSwar);
+
+        for (int round = 0; round < ROUNDS; round++) {
+            double swarRate = measure(() -> NicBatchValidator.validate(records, swar));
+            double scalarRate = measure(() -> NicBatchValidator.validateScalar(records, scalar));
+            System.out.printf(Locale.ROOT, "round %2d: swar %7.1f M NIC/s, scalar %7.1f M NIC/s%n",
+                    round, swarRate / 1e6, scalarRate / 1e6);
+        }
+    }
+
+    private static double measure(Runnable batch) {
+        int iterations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            batch.run();
+            iterations++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < 1_000_000_000L);
+        return (double) iterations * RECORDS / (elapsed / 1e9);
+    }
+
+    private static List<String> generate(int count, long seed) {
+        NicGenerator generator = new NicGenerator(seed);
+        Random random = generator.random();
+        List<String> nics = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String nic = generator.next();
+            if (random.nextInt(10) == 0) {
+                char[] chars = nic.toCharArray();
+                chars[random.nextInt(chars.length)] = (char) (' ' + random.nextInt(90));
+                nic = new String(chars);
+            }
+            nics.add(nic);
+        }
+        return nics;
+    }
+}
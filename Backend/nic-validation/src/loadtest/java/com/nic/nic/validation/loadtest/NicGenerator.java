@@ -0,0 +1,29 @@
+package com.nic.nic.validation.loadtest;
+
+import java.util.Random;
+
+/**
+ * Deterministic source of valid NIC numbers in both formats.
+ */
+public class NicGenerator {
+
+    private final Random random;
+
+    public NicGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public String next() {
+        int dayCode = 1 + random.nextInt(365) + (random.nextBoolean() ? 500 : 0);
+        if (random.nextBoolean()) {
+            int year = 1950 + random.nextInt(56);
+            return String.format("%04d%03d%05d", year, dayCode, random.nextInt(100_000));
+        }
+        int yearSuffix = 30 + random.nextInt(70);
+        return String.format("%02d%03d%04d%c", yearSuffix, dayCode, random.nextInt(10_000), random.nextBoolean() ? 'V' : 'X');
+    }
+
+    public Random random() {
+        return random;
+    }
+}
@@ -0,0 +1,93 @@
+package com.nic.nic.validation.loadtest;
+
+import com.nic.nic.validation.Main;
+import com.nic.nic.validation.dto.NicRecord;
+import com.nic.nic.validation.service.NicRecordService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Checks read/write routing on the {@code local} and {@code local-replica} profiles. A validation
+ * is written through the primary and a marker row straight into the replica; a read-only service
+ * call must then see only the marker. While the replica refuses connections the same call must
+ * fall back to the primary, and once it accepts them again and {@code replica-retry-ms} has passed
+ * it must read from the replica again. Throws on the first check that fails.
+ */
+public class ReplicaRoutingCheck {
+
+    private static final long RETRY_MS = 3000;
+    private static final String WRITTEN = "851234567V";
+    private static final String MARKER = "500010001V";
+
+    public static void main(String[] args) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Main.class)
+                .profiles("local", "local-replica")
+                .run("--server.port=0",
+                        "--spring.jpa.show-sql=false",
+                        "--app.warmup.enabled=false",
+                        "--app.event-log.dir=target/loadtest/event-log",
+                        "--app.datasource.replica-retry-ms=" + RETRY_MS,
+                        "--logging.level.root=WARN");
+             Connection replica = DriverManager.getConnection(
+                     context.getEnvironment().getRequiredProperty("app.datasource.replica.jdbc-url"), "sa", "")) {
+            NicRecordService service = context.getBean(NicRecordService.class);
+
+            service.validateByNic(WRITTEN);
+            insertMarker(replica);
+            expect(service, MARKER, WRITTEN, "read-only call goes to the replica");
+
+            // Outage: new logins fail and the pool's open sessions are dropped.
+            execute(replica, "ALTER USER SA SET PASSWORD 'down'");
+            abortOtherSessions(replica);
+            Thread.sleep(1000);
+            expect(service, WRITTEN, MARKER, "read-only call falls back to the primary");
+
+            execute(replica, "ALTER USER SA SET PASSWORD ''");
+            expect(service, WRITTEN, MARKER, "primary stays in use within replica-retry-ms");
+            Thread.sleep(RETRY_MS);
+            expect(service, MARKER, WRITTEN, "replica is used again after replica-retry-ms");
+        }
+        System.out.println("Replica routing checks passed");
+    }
+
+    private static void expect(NicRecordService service, String present, String absent, String check) {
+        List<String> nics = service.getByBirthYears(1900, 2100).stream().map(NicRecord::getNicNumber).toList();
+        if (!nics.contains(present) || nics.contains(absent)) {
+            throw new IllegalStateException("Failed: " + check + "; read " + nics);
+        }
+        System.out.println("ok: " + check);
+    }
+
+    private static void insertMarker(Connection replica) throws SQLException {
+        try (PreparedStatement insert = replica.prepareStatement(
+                "INSERT INTO nic (nic_number, dob, birth_year, gender, age, birth_month, birth_day) " +
+                        "VALUES (?, DATE '1950-01-01', 1950, 'MALE', 0, 1, 1)")) {
+            insert.setString(1, MARKER);
+            insert.executeUpdate();
+        }
+    }
+
+    private static void abortOtherSessions(Connection replica) throws SQLException {
+        try (Statement statement = replica.createStatement();
+             ResultSet sessions = statement.executeQuery(
+                     "SELECT SESSION_ID FROM INFORMATION_SCHEMA.SESSIONS WHERE SESSION_ID <> SESSION_ID()")) {
+            while (sessions.next()) {
+                execute(replica, "CALL ABORT_SESSION(" + sessions.getInt(1) + ")");
+            }
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.nic.nic.validation.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Workloads driven by {@link LoadTestRunner}. {@code mixed} picks one of the other operations per request.
+ */
+public enum Scenario {
+    LOGIN("login"),
+    VALIDATE("validate"),
+    LIST("list"),
+    STREAM("stream"),
+    REPORT_PDF("report-pdf"),
+    REPORT_EXCEL("report-excel"),
+    MIXED("mixed");
+
+    /** Weights of the mixed workload, in percent. */
+    private static final int[][] MIX = {
+            {LOGIN.ordinal(), 5},
+            {VALIDATE.ordinal(), 60},
+            {LIST.ordinal(), 30},
+            {REPORT_PDF.ordinal(), 3},
+            {REPORT_EXCEL.ordinal(), 2}
+    };
+
+    private final String id;
+
+    Scenario(String id) {
+        this.id = id;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public static List<Scenario> parse(String ids) {
+        return Arrays.stream(ids.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .map(id -> Arrays.stream(values())
+                        .filter(s -> s.id.equals(id))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + id)))
+                .toList();
+    }
+
+    /**
+     * Runs one request of this scenario and returns the HTTP status.
+     */
+    public int execute(LoadClient client, Session session, NicGenerator generator) throws Exception {
+        return switch (this) {
+            case LOGIN -> client.loginStatus(session.username(), session.password());
+            case VALIDATE -> client.validate(session.token(), generator.next());
+            case LIST -> client.get(session.token(), "/get");
+            case STREAM -> client.get(session.token(), "/get/stream");
+            case REPORT_PDF -> client.get(session.token(), "/report/pdf");
+            case REPORT_EXCEL -> client.get(session.token(), "/report/excel");
+            case MIXED -> pick(generator.random()).execute(client, session, generator);
+        };
+    }
+
+    private static Scenario pick(Random random) {
+        int roll = random.nextInt(100);
+        for (int[] weight : MIX) {
+            roll -= weight[1];
+            if (roll < 0) {
+                return values()[weight[0]];
+            }
+        }
+        return VALIDATE;
+    }
+
+    public record Session(String username, String password, String token) {
+    }
+}
@@ -1,9 +1,34 @@
 package com.nic.nic.validation.config;
 
+import com.nic.nic.validation.util.RequestTimings;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * Applied by Spring Boot to the application task executor, which runs {@code @Async} methods and
+     * MVC async work such as streaming bodies: their phases are recorded in the submitting request's timings.
+     */
+    @Bean
+    public TaskDecorator requestTimingsTaskDecorator() {
+        return task -> {
+            RequestTimings timings = RequestTimings.current();
+            if (timings == null) {
+                return task;
+            }
+            return () -> {
+                RequestTimings.attach(timings);
+                try {
+                    task.run();
+                } finally {
+                    RequestTimings.end();
+                }
+            };
+        };
+    }
 }
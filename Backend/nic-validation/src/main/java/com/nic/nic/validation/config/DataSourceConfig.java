@@ -0,0 +1,46 @@
+package com.nic.nic.validation.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * Builds the primary (read-write) and optional replica (read-only) connection pools.
+ * Read-only transactions are sent to the replica; everything else, and every read when
+ * no replica is configured, goes to the primary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @Primary
+    public ReadWriteDataSource dataSource(Environment environment,
+                                          @Value("${app.datasource.replica-retry-ms:30000}") long replicaRetryMs) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = binder.bind("app.datasource.primary", HikariConfig.class)
+                .map(this::pool)
+                .orElseThrow(() -> new IllegalStateException("app.datasource.primary is not configured"));
+
+        HikariDataSource replica = binder.bind("app.datasource.replica", HikariConfig.class)
+                .map(config -> hasUrl(config) ? pool(config) : null)
+                .orElse(null);
+
+        return new ReadWriteDataSource(primary, replica, replicaRetryMs);
+    }
+
+    private HikariDataSource pool(HikariConfig config) {
+        HikariDataSource dataSource = new HikariDataSource();
+        config.copyStateTo(dataSource);
+        return dataSource;
+    }
+
+    private boolean hasUrl(HikariConfig config) {
+        return config.getJdbcUrl() != null && !config.getJdbcUrl().isBlank();
+    }
+}
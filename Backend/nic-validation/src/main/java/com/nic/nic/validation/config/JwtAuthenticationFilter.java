@@ -1,6 +1,7 @@
 package com.nic.nic.validation.config;
 
 import com.nic.nic.validation.util.JwtUtils;
+import com.nic.nic.validation.util.RequestTimings;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,12 +34,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
+            long start = RequestTimings.start();
             username = jwtUtils.getUsernameFromToken(token);
+            RequestTimings.stop(RequestTimings.Phase.AUTH, start);
         }
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            long start = RequestTimings.start();
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtUtils.validateToken(token)) {
+            RequestTimings.stop(RequestTimings.Phase.USER, start);
+
+            start = RequestTimings.start();
+            boolean valid = jwtUtils.validateToken(token);
+            RequestTimings.stop(RequestTimings.Phase.AUTH, start);
+            if (valid) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
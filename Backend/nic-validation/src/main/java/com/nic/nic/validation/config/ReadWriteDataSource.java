@@ -0,0 +1,73 @@
+package com.nic.nic.validation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Lazy connection proxy that hands connections of read-only transactions to the replica pool.
+ * The physical connection is only fetched on the first statement, after the transaction manager
+ * has marked the connection read-only, so {@code @Transactional(readOnly = true)} is enough to route.
+ */
+@Slf4j
+public class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReadWriteDataSource(HikariDataSource primary, HikariDataSource replica, long replicaRetryMs) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+
+        if (replica != null) {
+            setReadOnlyDataSource(new ReplicaWithFallback(replica, primary, replicaRetryMs));
+            log.info("Routing read-only transactions to replica pool {}", replica.getPoolName());
+        } else {
+            log.info("No replica configured, read-only transactions use the primary pool");
+        }
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+        if (replica != null) {
+            replica.close();
+        }
+    }
+
+    /**
+     * Falls back to the primary when the replica cannot hand out a connection, and keeps
+     * using the primary for {@code retryMs} before trying the replica again.
+     */
+    private static class ReplicaWithFallback extends DelegatingDataSource {
+
+        private final HikariDataSource primary;
+        private final long retryMs;
+        private volatile long replicaDownUntil;
+
+        ReplicaWithFallback(HikariDataSource replica, HikariDataSource primary, long retryMs) {
+            super(replica);
+            this.primary = primary;
+            this.retryMs = retryMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (System.currentTimeMillis() >= replicaDownUntil) {
+                try {
+                    return super.getConnection();
+                } catch (SQLException | HikariPool.PoolInitializationException err) {
+                    replicaDownUntil = System.currentTimeMillis() + retryMs;
+                    log.warn("Replica unavailable, reading from primary for the next {} ms: {}", retryMs, err.getMessage());
+                }
+            }
+            return primary.getConnection();
+        }
+    }
+}
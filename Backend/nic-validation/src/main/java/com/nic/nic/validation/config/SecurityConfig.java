@@ -1,4 +1,5 @@
 package com.nic.nic.validation.config;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -39,10 +40,15 @@ public class SecurityConfig {
         return http
                 .cors(httpSecurityCorsConfigurer -> httpSecurityCorsConfigurer.configurationSource(corsConfigurationSource()))
                 .csrf(AbstractHttpConfigurer::disable)
-                .authorizeHttpRequests(req -> req.requestMatchers(
-                                        "/api/nic/auth/**"
+                // Streaming responses finish on an ASYNC dispatch that the JWT filter (once per request)
+                // does not see; the original REQUEST dispatch was already authorized.
+                .authorizeHttpRequests(req -> req.dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                                .requestMatchers(
+                                        "/api/nic/auth/**",
+                                        "/actuator/health/**"
                                 ).permitAll()
-                                .requestMatchers("/api/nic/**").hasAuthority("USER")
+                                .requestMatchers("/api/nic/events/**").hasAuthority("ADMIN")
+                                .requestMatchers("/api/nic/**").hasAnyAuthority("USER", "ADMIN")
                                 .anyRequest()
                                 .authenticated()
                 ).userDetailsService(userDetailsService)
@@ -67,6 +73,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(java.util.List.of("http://localhost:5173"));
         configuration.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(java.util.List.of("*"));
+        configuration.setExposedHeaders(java.util.List.of(ServerTimingFilter.SERVER_TIMING));
         configuration.setAllowCredentials(true);
         org.springframework.web.cors.UrlBasedCorsConfigurationSource source = new org.springframework.web.cors.UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,98 @@
+package com.nic.nic.validation.config;
+
+import com.nic.nic.validation.util.RequestTimings;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Outermost filter: samples requests for phase timings, adds the {@code Server-Timing} header to
+ * sampled responses and logs every request slower than the threshold, with its breakdown when sampled.
+ * Async requests are measured until the async processing completes.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+
+    public ServerTimingFilter(@Value("${app.timing.sample-rate:0.1}") double sampleRate,
+                              @Value("${app.timing.slow-threshold-ms:500}") long slowThresholdMs) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMs * 1_000_000L;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        RequestTimings timings = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate
+                ? RequestTimings.begin(start)
+                : null;
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // The body is still being produced on another thread; measure up to its completion.
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        complete(request, response, start, timings);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                complete(request, response, start, timings);
+            }
+            if (timings != null) {
+                if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                    response.setHeader(SERVER_TIMING, timings.toServerTiming());
+                }
+                RequestTimings.end();
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, long start, RequestTimings timings) {
+        long end = System.nanoTime();
+        if (timings != null) {
+            timings.finish(end);
+        }
+        if (end - start >= slowThresholdNanos) {
+            log.warn("slow-request method={} uri={} status={} total_ms={} sampled={}{}",
+                    request.getMethod(), request.getRequestURI(), response.getStatus(),
+                    String.format(Locale.ROOT, "%.2f", (end - start) / 1_000_000.0),
+                    timings != null, timings != null ? timings.toLogFields() : "");
+        }
+    }
+}
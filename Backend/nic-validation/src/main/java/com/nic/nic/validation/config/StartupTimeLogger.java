@@ -0,0 +1,43 @@
+package com.nic.nic.validation.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Logs time since JVM start when the application is ready and when the first successful application
+ * request completes, so startup changes can be tracked as time-to-first-request.
+ */
+@Slf4j
+@Component
+public class StartupTimeLogger {
+
+    private final AtomicBoolean firstRequest = new AtomicBoolean(true);
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ready = true;
+        log.info("startup ready_ms={}", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Only counts successful application requests after ready; probes and warm-up traffic are not the first request.
+     */
+    @EventListener(ServletRequestHandledEvent.class)
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!ready || event.getRequestUrl().startsWith("/actuator/")
+                || event.getStatusCode() < 200 || event.getStatusCode() >= 300) {
+            return;
+        }
+        if (firstRequest.get() && firstRequest.compareAndSet(true, false)) {
+            log.info("startup first_request_ms={} uri={} status={}",
+                    ManagementFactory.getRuntimeMXBean().getUptime(), event.getRequestUrl(), event.getStatusCode());
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.nic.nic.validation.config;
+
+import com.nic.nic.validation.dto.NicRecord;
+import com.nic.nic.validation.entity.NicRecordEntity;
+import com.nic.nic.validation.repository.NicRecordRepository;
+import com.nic.nic.validation.repository.UserRepository;
+import com.nic.nic.validation.service.ExcelReportService;
+import com.nic.nic.validation.service.NicRecordService;
+import com.nic.nic.validation.service.PdfReportService;
+import com.nic.nic.validation.util.JwtUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exercises the cold paths before the application reports itself ready. Spring Boot only moves
+ * readiness to ACCEPTING_TRAFFIC after every ApplicationRunner has returned. Covered paths: NIC
+ * decoding, Jackson and ModelMapper, JWT signing and parsing, every repository query, and repeated
+ * PDF and Excel renders of a report-sized synthetic list. Each step is independent; a failing step is logged and does not stop
+ * startup.
+ */
+@Slf4j
+@Component
+public class StartupWarmUp implements ApplicationRunner {
+
+    // Old and new format, male and female, 29 February 2000 (day 060); the last one exercises the rejection path.
+    private static final List<String> SAMPLE_NICS = List.of(
+            "851234567V", "857234567X", "199936512345", "200006000001", "12345");
+    private static final int QUERY_ROUNDS = 3;
+
+    private final NicRecordService nicService;
+    private final NicRecordRepository nicRepository;
+    private final UserRepository userRepository;
+    private final JwtUtils jwtUtils;
+    private final ModelMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<PdfReportService> pdfService;
+    private final ObjectProvider<ExcelReportService> excelService;
+    private final boolean enabled;
+    private final int iterations;
+    private final boolean reports;
+    private final int reportRows;
+    private final int reportIterations;
+
+    public StartupWarmUp(NicRecordService nicService,
+                         NicRecordRepository nicRepository,
+                         UserRepository userRepository,
+                         JwtUtils jwtUtils,
+                         ModelMapper mapper,
+                         ObjectMapper objectMapper,
+                         ObjectProvider<PdfReportService> pdfService,
+                         ObjectProvider<ExcelReportService> excelService,
+                         @Value("${app.warmup.enabled:true}") boolean enabled,
+                         @Value("${app.warmup.iterations:500}") int iterations,
+                         @Value("${app.warmup.reports:true}") boolean reports,
+                         @Value("${app.warmup.report-rows:1000}") int reportRows,
+                         @Value("${app.warmup.report-iterations:5}") int reportIterations) {
+        this.nicService = nicService;
+        this.nicRepository = nicRepository;
+        this.userRepository = userRepository;
+        this.jwtUtils = jwtUtils;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.pdfService = pdfService;
+        this.excelService = excelService;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.reports = reports;
+        this.reportRows = reportRows;
+        this.reportIterations = reportIterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        List<NicRecord> samples = new ArrayList<>();
+
+        step("decode", () -> decode(samples));
+        step("mapping", () -> mapping(samples));
+        step("jwt", this::jwt);
+        step("queries", this::queries);
+        if (reports) {
+            step("reports", this::reports);
+        }
+        log.info("warmup done_ms={} iterations={}", (System.nanoTime() - start) / 1_000_000, iterations);
+    }
+
+    private void decode(List<NicRecord> samples) {
+        for (int i = 0; i < iterations; i++) {
+            for (String nic : SAMPLE_NICS) {
+                try {
+                    NicRecord nicRecord = nicService.decode(nic);
+                    if (i == 0) {
+                        samples.add(nicRecord);
+                    }
+                } catch (IllegalArgumentException expected) {
+                    // rejected sample
+                }
+            }
+        }
+    }
+
+    private void mapping(List<NicRecord> samples) {
+        NicRecordEntity entity = new NicRecordEntity();
+        entity.setNicNumber("851234567V");
+        entity.setDob(LocalDate.of(1985, 5, 3));
+        entity.setGender("MALE");
+        entity.setAge(40);
+        for (int i = 0; i < iterations; i++) {
+            mapper.map(entity, NicRecord.class);
+            objectMapper.writeValueAsBytes(samples);
+        }
+    }
+
+    private void jwt() {
+        for (int i = 0; i < iterations; i++) {
+            jwtUtils.extractUsername(jwtUtils.generateToken("warmup"));
+        }
+    }
+
+    /**
+     * Read-only queries with parameters that match nothing, so they compile the query plans and open
+     * both connection pools without scanning data.
+     */
+    private void queries() {
+        for (int i = 0; i < QUERY_ROUNDS; i++) {
+            nicService.getDataVersion();
+            nicService.getByBirthYears(0, 0);
+            nicService.getBirthYearStats(0, 0);
+            nicRepository.findByNicNumberAndBirthYear("000000000V", 0);
+            nicRepository.findByNicNumberIn(List.of("000000000V"));
+            nicRepository.findForReport(0, 0);
+            nicRepository.findBirthdayKeys(1, 1, Long.MAX_VALUE, PageRequest.ofSize(1));
+            nicRepository.findUnbackfilledKeys(Long.MAX_VALUE, PageRequest.ofSize(1));
+            nicRepository.findStaleAgeKeys(2000, 1, 1, Long.MAX_VALUE, PageRequest.ofSize(1));
+            userRepository.findByUsername("");
+        }
+    }
+
+    /**
+     * Loads, maps and renders report-sized lists repeatedly: one small render leaves most of the
+     * entity loading, POI and OpenPDF still interpreted, and the first real report after startup
+     * several times slower than later ones. Reads at most {@code reportRows} existing rows.
+     */
+    private void reports() {
+        List<NicRecord> rows = syntheticRecords(reportRows);
+        for (int i = 0; i < reportIterations; i++) {
+            for (NicRecordEntity entity : nicRepository.findAllByOrderById(Limit.of(reportRows))) {
+                mapper.map(entity, NicRecord.class);
+            }
+            pdfService.getObject().render(rows);
+            try {
+                excelService.getObject().render(rows);
+            } catch (IOException err) {
+                throw new UncheckedIOException(err);
+            }
+        }
+    }
+
+    private List<NicRecord> syntheticRecords(int count) {
+        List<NicRecord> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // New-format numbers spread over 60 birth years, both genders and every day of the year.
+            String nic = String.format("%04d%03d%05d", 1950 + i % 60, 1 + i % 365 + (i % 2) * 500, i % 100_000);
+            NicRecord nicRecord = nicService.decode(nic);
+            nicRecord.setId((long) i + 1);
+            rows.add(nicRecord);
+        }
+        return rows;
+    }
+
+    private void step(String name, Runnable step) {
+        long start = System.nanoTime();
+        try {
+            step.run();
+            log.debug("warmup step={} ms={}", name, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException err) {
+            log.warn("warmup step={} failed: {}", name, err.toString());
+        }
+    }
+}
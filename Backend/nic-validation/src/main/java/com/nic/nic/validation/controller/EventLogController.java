@@ -0,0 +1,49 @@
+package com.nic.nic.validation.controller;
+
+import com.nic.nic.validation.dto.EventLogSummary;
+import com.nic.nic.validation.dto.ValidationEvent;
+import com.nic.nic.validation.service.EventReplayService;
+import com.nic.nic.validation.service.ValidationEventLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Admin only (see SecurityConfig): events carry every user's validations and user ids.
+ */
+@RequiredArgsConstructor
+@RestController
+@CrossOrigin
+@RequestMapping("api/nic/events")
+public class EventLogController {
+
+    private static final int MAX_PAGE = 10_000;
+
+    private final ValidationEventLog eventLog;
+    private final EventReplayService replayService;
+
+    @GetMapping
+    public ResponseEntity<List<ValidationEvent>> read(@RequestParam(value = "from", defaultValue = "0") long from,
+                                                      @RequestParam(value = "limit", defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(eventLog.read(Math.max(0, from), Math.clamp(limit, 1, MAX_PAGE)));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<EventLogSummary> summary() {
+        return ResponseEntity.ok(replayService.summarize());
+    }
+
+    /**
+     * Returns at once; progress and the result are logged.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<String> rebuild() {
+        if (!replayService.startRebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("A rebuild is already running");
+        }
+        return ResponseEntity.accepted().body("Rebuild started");
+    }
+}
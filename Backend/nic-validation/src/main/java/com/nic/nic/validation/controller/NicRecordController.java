@@ -1,11 +1,21 @@
 package com.nic.nic.validation.controller;
 
+import com.nic.nic.validation.dto.BirthYearStats;
+import com.nic.nic.validation.dto.DataVersion;
 import com.nic.nic.validation.dto.NicRecord;
 import com.nic.nic.validation.service.NicRecordService;
+import com.nic.nic.validation.util.RequestTimings;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.List;
 
@@ -15,7 +25,10 @@ import java.util.List;
 @RequestMapping("api/nic")
 public class NicRecordController {
 
+    private static final int FLUSH_EVERY = 500;
+
     private final NicRecordService nicService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/validate")
     public ResponseEntity<NicRecord> validateByNic(@RequestParam("nic") String nic) {
@@ -24,8 +37,73 @@ public class NicRecordController {
     }
 
     @GetMapping("/get")
-    public List<NicRecord> getAll() {
-        return nicService.getAll();
+    public ResponseEntity<List<NicRecord>> getAll(WebRequest request) {
+        DataVersion version = nicService.getDataVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache().cachePrivate()).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(nicService.getAll());
+    }
+
+    /**
+     * Records born in the given years, inclusive; in MySQL only the matching partitions are read.
+     */
+    @GetMapping("/get/years")
+    public ResponseEntity<List<NicRecord>> getByBirthYears(@RequestParam("fromYear") int fromYear,
+                                                           @RequestParam("toYear") int toYear) {
+        return ResponseEntity.ok(nicService.getByBirthYears(fromYear, toYear));
+    }
+
+    @GetMapping("/stats/birth-years")
+    public ResponseEntity<List<BirthYearStats>> getBirthYearStats(
+            @RequestParam(value = "fromYear", defaultValue = "0") int fromYear,
+            @RequestParam(value = "toYear", defaultValue = "9999") int toYear) {
+        return ResponseEntity.ok(nicService.getBirthYearStats(fromYear, toYear));
+    }
+
+    /**
+     * Streams every record as it is read from the database cursor: newline-delimited JSON by default,
+     * or a single JSON array when the client only accepts {@code application/json}.
+     */
+    @GetMapping(value = "/get/stream", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = MediaType.APPLICATION_NDJSON_VALUE) String accept) {
+        boolean array = !accept.contains(MediaType.APPLICATION_NDJSON_VALUE)
+                && accept.contains(MediaType.APPLICATION_JSON_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            // Runs on the task executor with this request's timings; reading and writing interleave, so it all counts as render.
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.markRenderStart();
+            }
+            try (JsonGenerator generator = objectMapper.writer()
+                    .withRootValueSeparator("")
+                    .createGenerator(outputStream)) {
+                if (array) {
+                    generator.writeStartArray();
+                }
+                int[] written = {0};
+                nicService.streamAll(nicRecord -> {
+                    generator.writePOJO(nicRecord);
+                    if (!array) {
+                        generator.writeRaw('\n');
+                    }
+                    if (++written[0] % FLUSH_EVERY == 1) {
+                        generator.flush();
+                    }
+                });
+                if (array) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(array ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
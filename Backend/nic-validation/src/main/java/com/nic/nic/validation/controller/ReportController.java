@@ -1,41 +1,74 @@
 package com.nic.nic.validation.controller;
 
+import com.nic.nic.validation.dto.DataVersion;
 import com.nic.nic.validation.service.ExcelReportService;
+import com.nic.nic.validation.service.NicRecordService;
 import com.nic.nic.validation.service.PdfReportService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("api/nic/report")
 @RequiredArgsConstructor
 public class ReportController {
 
-    private final PdfReportService pdfService;
-    private final ExcelReportService excelService;
+    // Resolved on first use so the report beans, and POI/OpenPDF, stay unloaded until a report is requested.
+    private final ObjectProvider<PdfReportService> pdfService;
+    private final ObjectProvider<ExcelReportService> excelService;
+    private final NicRecordService nicService;
 
     @GetMapping("/pdf")
-    public ResponseEntity<byte[]> downloadPdf() throws Exception {
+    public ResponseEntity<byte[]> downloadPdf(@RequestParam(value = "fromYear", required = false) Integer fromYear,
+                                              @RequestParam(value = "toYear", required = false) Integer toYear,
+                                              WebRequest request) throws Exception {
+        nicService.checkYearRange(fromYear, toYear);
+        DataVersion version = nicService.getDataVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache().cachePrivate()).build();
+        }
 
-        byte[] pdf = pdfService.generatePdfReport().get();
+        byte[] pdf = pdfService.getObject().generatePdfReport(fromYear, toYear).get();
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=nic-report.pdf")
+                .cacheControl(CacheControl.noCache().cachePrivate())
                 .contentType(MediaType.APPLICATION_PDF)
                 .body(pdf);
     }
 
     @GetMapping("/excel")
-    public ResponseEntity<byte[]> downloadExcel() throws Exception {
+    public ResponseEntity<byte[]> downloadExcel(@RequestParam(value = "fromYear", required = false) Integer fromYear,
+                                                @RequestParam(value = "toYear", required = false) Integer toYear,
+                                                WebRequest request) throws Exception {
+        nicService.checkYearRange(fromYear, toYear);
+        DataVersion version = nicService.getDataVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache().cachePrivate()).build();
+        }
 
-        byte[] excel = excelService.generateExcelReport().get();
+        byte[] excel = excelService.getObject().generateExcelReport(fromYear, toYear).get();
 
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=nic-report.xlsx")
+                .cacheControl(CacheControl.noCache().cachePrivate())
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
                 .body(excel);
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException ex) {
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ex.getMessage());
+    }
 }
@@ -0,0 +1,22 @@
+package com.nic.nic.validation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Record counts for one birth year.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BirthYearStats {
+
+    private Integer birthYear;
+    private Long total;
+    private Long female;
+
+    public long getMale() {
+        return total - female;
+    }
+}
@@ -0,0 +1,37 @@
+package com.nic.nic.validation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Cheap watermark of the nic table (highest id and latest update) used for HTTP validators.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DataVersion {
+
+    private Long maxId;
+
+    private LocalDateTime lastUpdated;
+
+    /**
+     * Weak, because compressed and uncompressed bodies share it. Ages depend on the current date,
+     * so the day is part of the tag as well.
+     */
+    public String getETag() {
+        long updated = lastUpdated == null ? 0 : lastUpdated.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return "W/\"" + (maxId == null ? 0 : maxId) + "-" + updated + "-" + LocalDate.now().toEpochDay() + "\"";
+    }
+
+    public long getLastModified() {
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        LocalDateTime latest = lastUpdated == null || lastUpdated.isBefore(startOfToday) ? startOfToday : lastUpdated;
+        return latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
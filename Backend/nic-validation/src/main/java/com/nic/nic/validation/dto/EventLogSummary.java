@@ -0,0 +1,23 @@
+package com.nic.nic.validation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Aggregates over the whole validation event log, computed by replaying it.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EventLogSummary {
+
+    private long events;
+    private long distinctNics;
+    private long male;
+    private long female;
+    private Instant firstValidatedAt;
+    private Instant lastValidatedAt;
+}
@@ -0,0 +1,38 @@
+package com.nic.nic.validation.dto;
+
+import lombok.Getter;
+
+/**
+ * Output of {@code NicBatchValidator}: one slot per input record in primitive arrays, so a batch can be
+ * reused across calls without allocating per NIC.
+ */
+@Getter
+public class NicBatchResult {
+
+    public static final byte INVALID = 0;
+    public static final byte MALE = 1;
+    public static final byte FEMALE = 2;
+
+    private final byte[] status;
+    private final short[] birthYear;
+    private final short[] dayOfYear;
+    private int count;
+
+    public NicBatchResult(int capacity) {
+        this.status = new byte[capacity];
+        this.birthYear = new short[capacity];
+        this.dayOfYear = new short[capacity];
+    }
+
+    public int capacity() {
+        return status.length;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    public boolean isValid(int index) {
+        return status[index] != INVALID;
+    }
+}
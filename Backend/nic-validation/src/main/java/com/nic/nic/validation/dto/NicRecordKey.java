@@ -0,0 +1,18 @@
+package com.nic.nic.validation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Primary key of a nic row together with its partitioning key, so bulk updates can name both.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class NicRecordKey {
+
+    private Long id;
+
+    private Integer birthYear;
+}
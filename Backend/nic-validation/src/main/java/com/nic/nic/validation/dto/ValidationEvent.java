@@ -0,0 +1,25 @@
+package com.nic.nic.validation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * One entry of the validation event log. {@code sequence} is the position in the log, starting at 0.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ValidationEvent {
+
+    private long sequence;
+    private String nicNumber;
+    private LocalDate dob;
+    private String gender;
+    private int age;
+    private Instant validatedAt;
+    private long userId;
+}
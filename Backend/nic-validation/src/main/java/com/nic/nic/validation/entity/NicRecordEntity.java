@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,7 +15,11 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @RequiredArgsConstructor
-@Table(name = "nic")
+@Table(name = "nic", indexes = {
+        @Index(name = "idx_nic_updated_at", columnList = "updatedAt"),
+        @Index(name = "idx_nic_birthday", columnList = "birthMonth, birthDay"),
+        @Index(name = "idx_nic_birth_year", columnList = "birthYear")
+})
 public class NicRecordEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,13 +31,26 @@ public class NicRecordEntity {
     @Column(name = "dob", nullable = false)
     private LocalDate dob;
 
+    // Partitioning key of the nic table in MySQL; include it in queries so only matching partitions are read.
+    // Entity updates still go by id alone and check every partition.
+    @Column(nullable = false)
+    private Integer birthYear;
+
     @Column(name = "gender", nullable = false, length = 10)
     private String gender;
 
     private Integer age;
 
+    // Derived from dob so the daily age job can find today's birthdays through an index.
+    private Integer birthMonth;
+
+    private Integer birthDay;
+
     @CreationTimestamp
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime validatedAt;
 
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
 }
@@ -0,0 +1,7 @@
+package com.nic.nic.validation.repository;
+
+import com.nic.nic.validation.entity.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobRunRepository extends JpaRepository<JobRun, String> {
+}
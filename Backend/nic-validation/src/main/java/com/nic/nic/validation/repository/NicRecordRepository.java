@@ -1,17 +1,110 @@
 package com.nic.nic.validation.repository;
 
+import com.nic.nic.validation.dto.BirthYearStats;
+import com.nic.nic.validation.dto.DataVersion;
+import com.nic.nic.validation.dto.NicRecord;
+import com.nic.nic.validation.dto.NicRecordKey;
 import com.nic.nic.validation.entity.NicRecordEntity;
+import jakarta.persistence.QueryHint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface NicRecordRepository extends JpaRepository <NicRecordEntity, Long> {
+    String STREAM_FETCH_SIZE = "500";
+
+    // Whole years from dob to the date given as :year/:month/:day, same as Period.between
+    // (a 29 February birthday counts from 1 March in non-leap years).
+    String AGE_ON_DATE = ":year - year(n.dob) - case when month(n.dob) > :month " +
+            "or (month(n.dob) = :month and day(n.dob) > :day) then 1 else 0 end";
+
     Optional<NicRecordEntity> findByNicNumber(String nicNumber);
 
+    Optional<NicRecordEntity> findByNicNumberAndBirthYear(String nicNumber, Integer birthYear);
+
+    List<NicRecordEntity> findByBirthYearBetweenOrderById(Integer fromYear, Integer toYear);
+
+    @Query("select new com.nic.nic.validation.dto.NicRecord(n.id, n.nicNumber, n.dob, n.age, n.gender) " +
+            "from NicRecordEntity n where n.birthYear between :fromYear and :toYear order by n.id")
+    List<NicRecord> findRecordsByBirthYear(int fromYear, int toYear);
+
+    @Query("select new com.nic.nic.validation.dto.BirthYearStats(n.birthYear, count(n), " +
+            "sum(case when n.gender = 'FEMALE' then 1 else 0 end)) " +
+            "from NicRecordEntity n where n.birthYear between :fromYear and :toYear " +
+            "group by n.birthYear order by n.birthYear")
+    List<BirthYearStats> countByBirthYear(int fromYear, int toYear);
+
+    /**
+     * Report rows, limited to the given birth years when both bounds are set.
+     */
+    default List<NicRecordEntity> findForReport(Integer fromYear, Integer toYear) {
+        return fromYear == null || toYear == null ? findAll() : findByBirthYearBetweenOrderById(fromYear, toYear);
+    }
+
+    List<NicRecordEntity> findByNicNumberIn(List<String> nicNumbers);
+
+    List<NicRecordEntity> findAllByOrderById(Limit limit);
+
     boolean existsByNicNumber(@NotBlank(message = "NIC is required") @Pattern(
             regexp = "^(\\d{9}[vVxX]|\\d{12})$",
             message = "NIC must be 9 digits followed by V/X or 12 digits"
     ) String nicNumber);
+
+    /**
+     * Forward-only cursor over all records as DTOs. Rows are not attached to the persistence
+     * context, so heap use stays flat however large the table is. Must be consumed inside a
+     * transaction and closed; MySQL only honours the fetch size with {@code useCursorFetch=true}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new com.nic.nic.validation.dto.NicRecord(n.id, n.nicNumber, n.dob, n.age, n.gender) " +
+            "from NicRecordEntity n order by n.id")
+    Stream<NicRecord> streamAll();
+
+    @Query("select new com.nic.nic.validation.dto.NicRecordKey(n.id, n.birthYear) from NicRecordEntity n " +
+            "where n.birthMonth = :month and n.birthDay = :day and n.id > :afterId order by n.id")
+    List<NicRecordKey> findBirthdayKeys(int month, int day, long afterId, Pageable page);
+
+    @Query("select new com.nic.nic.validation.dto.NicRecordKey(n.id, n.birthYear) from NicRecordEntity n " +
+            "where n.birthMonth is null and n.id > :afterId order by n.id")
+    List<NicRecordKey> findUnbackfilledKeys(long afterId, Pageable page);
+
+    /**
+     * Every row whose stored age differs from its age on the given date. No index serves this, so
+     * it reads the whole table.
+     */
+    @Query("select new com.nic.nic.validation.dto.NicRecordKey(n.id, n.birthYear) from NicRecordEntity n " +
+            "where n.id > :afterId and (n.birthMonth is null " +
+            "or n.age is null or n.age <> " + AGE_ON_DATE + ") order by n.id")
+    List<NicRecordKey> findStaleAgeKeys(int year, int month, int day, long afterId, Pageable page);
+
+    /**
+     * Recomputes age, birth month and birth day of the given rows as of the given date. Bulk
+     * updates skip {@code @UpdateTimestamp}, so {@code updatedAt} is set here to keep listing
+     * validators in step. {@code birthYears} must cover the rows' birth years; it only lets MySQL
+     * prune the partitions the rows cannot be in.
+     */
+    @Transactional
+    @Modifying
+    @Query("update NicRecordEntity n set n.age = " + AGE_ON_DATE + ", n.birthMonth = month(n.dob), " +
+            "n.birthDay = day(n.dob), n.updatedAt = :now where n.birthYear in :birthYears and n.id in :ids")
+    int refreshAges(List<Long> ids, Set<Integer> birthYears, int year, int month, int day, LocalDateTime now);
+
+    @Query("select new com.nic.nic.validation.dto.DataVersion(max(n.id), max(n.updatedAt)) from NicRecordEntity n")
+    DataVersion findDataVersion();
 }
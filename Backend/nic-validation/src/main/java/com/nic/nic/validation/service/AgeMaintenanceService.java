@@ -0,0 +1,141 @@
+package com.nic.nic.validation.service;
+
+import com.nic.nic.validation.dto.NicRecordKey;
+import com.nic.nic.validation.entity.JobRun;
+import com.nic.nic.validation.repository.JobRunRepository;
+import com.nic.nic.validation.repository.NicRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the stored {@code age} of NIC records current, so listings and reports can use it as is.
+ * Each day only the rows whose birthday is today are updated, found through the (birthMonth,
+ * birthDay) index. The last completed day is stored in {@code job_run}. The daily job and startup
+ * both replay the birthdays of every day since then, so a new instance on an up-to-date database
+ * reads one row. Startup also backfills rows without birth month and day. The full scan for stale
+ * ages runs only with {@code app.age.full-reconcile}. Every update writes an absolute value, so
+ * overlapping runs on several instances are harmless.
+ */
+@Slf4j
+@Service
+public class AgeMaintenanceService {
+
+    private static final String JOB = "age-refresh";
+    private static final int MAX_CATCH_UP_DAYS = 365;
+
+    private final NicRecordRepository repository;
+    private final JobRunRepository jobRuns;
+    private final Pageable batch;
+    private final boolean fullReconcile;
+
+    public AgeMaintenanceService(NicRecordRepository repository,
+                                 JobRunRepository jobRuns,
+                                 @Value("${app.age.batch-size:1000}") int batchSize,
+                                 @Value("${app.age.full-reconcile:false}") boolean fullReconcile) {
+        this.repository = repository;
+        this.jobRuns = jobRuns;
+        this.batch = PageRequest.ofSize(batchSize);
+        this.fullReconcile = fullReconcile;
+    }
+
+    @Scheduled(cron = "${app.age.cron:0 5 0 * * *}")
+    public void refreshBirthdays() {
+        catchUp(LocalDate.now());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        int backfilled = refreshInBatches(afterId -> repository.findUnbackfilledKeys(afterId, batch), today);
+        if (backfilled > 0) {
+            log.info("Age backfill on {}: {} records without birth month and day updated", today, backfilled);
+        }
+
+        if (fullReconcile) {
+            int updated = refreshInBatches(afterId -> repository.findStaleAgeKeys(
+                    today.getYear(), today.getMonthValue(), today.getDayOfMonth(), afterId, batch), today);
+            log.info("Full age reconcile on {}: {} stale records updated", today, updated);
+            markCompleted(today);
+        } else {
+            catchUp(today);
+        }
+    }
+
+    /**
+     * Refreshes the birthdays of every day after the last completed one, up to and including
+     * {@code today}, then records {@code today} as completed.
+     */
+    private void catchUp(LocalDate today) {
+        LocalDate last = jobRuns.findById(JOB).map(JobRun::getCompletedOn).orElse(null);
+        if (last != null && !last.isBefore(today)) {
+            return;
+        }
+        LocalDate from;
+        if (last == null) {
+            from = today;
+            if (repository.findDataVersion().getMaxId() != null) {
+                log.warn("No completed age refresh recorded; ages from earlier days are only corrected by a "
+                        + "run with app.age.full-reconcile=true");
+            }
+        } else {
+            LocalDate oldest = today.minusDays(MAX_CATCH_UP_DAYS);
+            from = last.plusDays(1).isBefore(oldest) ? oldest : last.plusDays(1);
+        }
+
+        int updated = 0;
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            updated += refreshBirthdaysOn(day, today);
+        }
+        markCompleted(today);
+        log.info("Age refresh for birthdays from {} to {}: {} records updated", from, today, updated);
+    }
+
+    private int refreshBirthdaysOn(LocalDate day, LocalDate today) {
+        int updated = refreshInBatches(afterId -> repository.findBirthdayKeys(
+                day.getMonthValue(), day.getDayOfMonth(), afterId, batch), today);
+
+        // 29 February birthdays turn over on 1 March in non-leap years
+        if (!day.isLeapYear() && day.getMonth() == Month.MARCH && day.getDayOfMonth() == 1) {
+            updated += refreshInBatches(afterId -> repository.findBirthdayKeys(2, 29, afterId, batch), today);
+        }
+        return updated;
+    }
+
+    private void markCompleted(LocalDate today) {
+        JobRun run = new JobRun();
+        run.setName(JOB);
+        run.setCompletedOn(today);
+        jobRuns.save(run);
+    }
+
+    private int refreshInBatches(LongFunction<List<NicRecordKey>> nextKeys, LocalDate today) {
+        int updated = 0;
+        long afterId = 0;
+        List<NicRecordKey> keys = nextKeys.apply(afterId);
+        while (!keys.isEmpty()) {
+            List<Long> ids = keys.stream().map(NicRecordKey::getId).toList();
+            Set<Integer> birthYears = keys.stream().map(NicRecordKey::getBirthYear).collect(Collectors.toSet());
+            updated += repository.refreshAges(ids, birthYears, today.getYear(), today.getMonthValue(),
+                    today.getDayOfMonth(), LocalDateTime.now());
+            afterId = ids.get(ids.size() - 1);
+            keys = nextKeys.apply(afterId);
+        }
+        return updated;
+    }
+}
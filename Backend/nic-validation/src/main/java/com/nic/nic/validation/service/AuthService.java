@@ -4,6 +4,8 @@ import com.nic.nic.validation.dto.AuthenticationResponse;
 import com.nic.nic.validation.entity.User;
 import com.nic.nic.validation.repository.UserRepository;
 import com.nic.nic.validation.util.JwtUtils;
+import com.nic.nic.validation.util.RequestTimings;
+import com.nic.nic.validation.util.RequestTimings.Phase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -24,15 +26,22 @@ public class AuthService {
 
     public AuthenticationResponse login(User loginRequest) {
 
+        long start = RequestTimings.start();
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword())
         );
         String token = jwtUtils.generateToken(loginRequest.getUsername());
+        RequestTimings.stop(Phase.AUTH, start);
+
+        start = RequestTimings.start();
         User user = userRepository.findByUsername(loginRequest.getUsername())
                 .orElseThrow(() -> new RuntimeException("User not found"));
+        RequestTimings.stop(Phase.USER, start);
 
         user.setToken(token);
+        start = RequestTimings.start();
         userRepository.save(user);
+        RequestTimings.stop(Phase.DB_WRITE, start);
         log.info(token);
         return new AuthenticationResponse(token);
     }
@@ -43,6 +52,10 @@ public class AuthService {
         }
 
         User user =mapper.map(registerRequest, User.class);
+        // The body is client input: never take an id, role or token from it.
+        user.setId(null);
+        user.setRole("USER");
+        user.setToken(null);
         user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
         userRepository.save(user);
 
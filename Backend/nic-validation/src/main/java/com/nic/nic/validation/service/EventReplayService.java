@@ -0,0 +1,135 @@
+package com.nic.nic.validation.service;
+
+import com.nic.nic.validation.dto.EventLogSummary;
+import com.nic.nic.validation.dto.ValidationEvent;
+import com.nic.nic.validation.entity.NicRecordEntity;
+import com.nic.nic.validation.repository.NicRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds state from the validation event log without reading the existing nic table in bulk.
+ */
+@Slf4j
+@Service
+public class EventReplayService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ValidationEventLog eventLog;
+    private final NicRecordRepository repository;
+    private final TransactionTemplate transaction;
+    private final TaskExecutor taskExecutor;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Running totals for summarize(), advanced from summarizedUpTo on each call.
+    private final Set<String> summaryNics = new HashSet<>();
+    private final long[] summaryGenders = new long[2];
+    private final Instant[] summaryRange = new Instant[2];
+    private long summarizedUpTo;
+
+    public EventReplayService(ValidationEventLog eventLog, NicRecordRepository repository,
+                              PlatformTransactionManager transactionManager,
+                              @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+        this.eventLog = eventLog;
+        this.repository = repository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Starts {@link #rebuildNicTable} in the background.
+     *
+     * @return false if a rebuild is already running
+     */
+    public boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        taskExecutor.execute(() -> {
+            try {
+                rebuildNicTable();
+            } catch (RuntimeException err) {
+                log.error("Rebuild of nic table from the event log failed", err);
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Upserts one nic row per NIC from its latest event, in batches of {@value #BATCH_SIZE}.
+     * Ages are recomputed for today rather than taken from the event.
+     *
+     * @return number of rows written
+     */
+    public int rebuildNicTable() {
+        Map<String, ValidationEvent> latest = new LinkedHashMap<>();
+        long events = eventLog.replay(0, event -> latest.put(event.getNicNumber(), event));
+
+        LocalDate today = LocalDate.now();
+        List<ValidationEvent> pending = new ArrayList<>(latest.values());
+        for (int from = 0; from < pending.size(); from += BATCH_SIZE) {
+            List<ValidationEvent> batch = pending.subList(from, Math.min(from + BATCH_SIZE, pending.size()));
+            transaction.executeWithoutResult(status -> upsert(batch, today));
+        }
+        log.info("Rebuilt nic table from {} events: {} records", events, pending.size());
+        return pending.size();
+    }
+
+    /**
+     * Counts over the whole log. The log is append-only, so each call only replays the events
+     * appended since the previous one; concurrent callers wait for that replay instead of repeating it.
+     */
+    public synchronized EventLogSummary summarize() {
+        summarizedUpTo += eventLog.replay(summarizedUpTo, event -> {
+            summaryNics.add(event.getNicNumber());
+            summaryGenders["FEMALE".equals(event.getGender()) ? 1 : 0]++;
+            if (summaryRange[0] == null) {
+                summaryRange[0] = event.getValidatedAt();
+            }
+            summaryRange[1] = event.getValidatedAt();
+        });
+        return new EventLogSummary(summarizedUpTo, summaryNics.size(), summaryGenders[0], summaryGenders[1],
+                summaryRange[0], summaryRange[1]);
+    }
+
+    private void upsert(List<ValidationEvent> batch, LocalDate today) {
+        Map<String, NicRecordEntity> existing = repository
+                .findByNicNumberIn(batch.stream().map(ValidationEvent::getNicNumber).toList())
+                .stream()
+                .collect(Collectors.toMap(NicRecordEntity::getNicNumber, Function.identity()));
+
+        List<NicRecordEntity> entities = new ArrayList<>(batch.size());
+        for (ValidationEvent event : batch) {
+            NicRecordEntity entity = existing.getOrDefault(event.getNicNumber(), new NicRecordEntity());
+            entity.setNicNumber(event.getNicNumber());
+            entity.setDob(event.getDob());
+            entity.setBirthYear(event.getDob().getYear());
+            entity.setGender(event.getGender());
+            entity.setAge(Period.between(event.getDob(), today).getYears());
+            entity.setBirthMonth(event.getDob().getMonthValue());
+            entity.setBirthDay(event.getDob().getDayOfMonth());
+            entities.add(entity);
+        }
+        repository.saveAll(entities);
+    }
+}
@@ -4,19 +4,25 @@ import com.nic.nic.validation.dto.NicRecord;
 import com.nic.nic.validation.entity.NicRecordEntity;
 import com.nic.nic.validation.repository.NicRecordRepository;
 import com.nic.nic.validation.util.ReportUtils;
+import com.nic.nic.validation.util.RequestTimings;
+import com.nic.nic.validation.util.RequestTimings.Phase;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+@Lazy
 @Service
 @RequiredArgsConstructor
 public class ExcelReportService {
@@ -25,13 +31,26 @@ public class ExcelReportService {
     private final ModelMapper modelMapper;
 
     @Async
-    public CompletableFuture<byte[]> generateExcelReport() throws Exception {
+    @Transactional(readOnly = true)
+    public CompletableFuture<byte[]> generateExcelReport(Integer fromYear, Integer toYear) throws Exception {
 
-        List<NicRecordEntity> entities = repository.findAll();
+        long start = RequestTimings.start();
+        List<NicRecordEntity> entities = repository.findForReport(fromYear, toYear);
+        RequestTimings.stop(Phase.DB_READ, start);
+
+        start = RequestTimings.start();
         List<NicRecord> records = entities.stream()
                 .map(entity -> modelMapper.map(entity, NicRecord.class))
                 .toList();
+        RequestTimings.stop(Phase.MAPPING, start);
+
+        start = RequestTimings.start();
+        byte[] excel = render(records);
+        RequestTimings.stop(Phase.REPORT, start);
+        return CompletableFuture.completedFuture(excel);
+    }
 
+    public byte[] render(List<NicRecord> records) throws IOException {
         try (
                 Workbook workbook = new XSSFWorkbook();
                 ByteArrayOutputStream outputStream = new ByteArrayOutputStream()
@@ -56,7 +75,7 @@ public class ExcelReportService {
 
             workbook.write(outputStream);
 
-            return CompletableFuture.completedFuture(outputStream.toByteArray());
+            return outputStream.toByteArray();
         }
     }
 
@@ -1,15 +1,25 @@
 package com.nic.nic.validation.service;
 
+import com.nic.nic.validation.dto.AuthenticatedUser;
+import com.nic.nic.validation.dto.BirthYearStats;
+import com.nic.nic.validation.dto.DataVersion;
 import com.nic.nic.validation.dto.NicRecord;
 import com.nic.nic.validation.entity.NicRecordEntity;
 import com.nic.nic.validation.repository.NicRecordRepository;
+import com.nic.nic.validation.util.RequestTimings;
+import com.nic.nic.validation.util.RequestTimings.Phase;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.Period;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -17,7 +27,43 @@ public class NicRecordService {
     
     private final NicRecordRepository repository;
     private final ModelMapper mapper;
+    private final ValidationEventLog eventLog;
     public NicRecord validateByNic(String nicNumber) {
+        NicRecord decoded = decode(nicNumber);
+        String nic = decoded.getNicNumber();
+        LocalDate dob = decoded.getDob();
+        String gender = decoded.getGender();
+        Integer age = decoded.getAge();
+
+        long start = RequestTimings.start();
+        NicRecordEntity entity = repository.findByNicNumberAndBirthYear(nic, dob.getYear()).orElseGet(NicRecordEntity::new);
+        RequestTimings.stop(Phase.DB_READ, start);
+        entity.setNicNumber(nic);
+        entity.setDob(dob);
+        entity.setBirthYear(dob.getYear());
+        entity.setGender(gender);
+        entity.setAge(age);
+        entity.setBirthMonth(dob.getMonthValue());
+        entity.setBirthDay(dob.getDayOfMonth());
+
+        start = RequestTimings.start();
+        NicRecordEntity saved = repository.save(entity);
+        RequestTimings.stop(Phase.DB_WRITE, start);
+
+        start = RequestTimings.start();
+        eventLog.append(nic, dob, gender, age, currentUserId());
+        RequestTimings.stop(Phase.EVENT_LOG, start);
+
+        start = RequestTimings.start();
+        NicRecord nicRecord = mapper.map(saved, NicRecord.class);
+        RequestTimings.stop(Phase.MAPPING, start);
+        return nicRecord;
+    }
+
+    /**
+     * Validates and decodes a NIC without touching the database.
+     */
+    public NicRecord decode(String nicNumber) {
         String nic = normalizeNic(nicNumber);
 
         if (nic.isBlank()) {
@@ -28,18 +74,7 @@ public class NicRecordService {
         }
 
         LocalDate dob = extractDobFromNic(nic);
-        String gender = extractGenderFromNic(nic);
-        Integer age = calculateAgeFromDob(dob);
-
-        NicRecordEntity entity = repository.findByNicNumber(nic).orElseGet(NicRecordEntity::new);
-        entity.setNicNumber(nic);
-        entity.setDob(dob);
-        entity.setGender(gender);
-        entity.setAge(age);
-
-        NicRecordEntity saved = repository.save(entity);
-
-        return mapper.map(saved, NicRecord.class);
+        return new NicRecord(null, nic, dob, calculateAgeFromDob(dob), extractGenderFromNic(nic));
     }
 
     private String normalizeNic(String nicNumber) {
@@ -95,14 +130,68 @@ public class NicRecordService {
         throw new IllegalArgumentException("Invalid day code for gender in NIC: " + nic);
     }
 
+    private long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user ? user.getId() : 0L;
+    }
+
     private Integer calculateAgeFromDob(LocalDate dob) {
         return Period.between(dob, LocalDate.now()).getYears();
     }
 
+    @Transactional(readOnly = true)
     public List<NicRecord> getAll() {
+        long start = RequestTimings.start();
         List<NicRecordEntity> entity = repository.findAll();
-        return entity.stream()
+        RequestTimings.stop(Phase.DB_READ, start);
+
+        start = RequestTimings.start();
+        List<NicRecord> records = entity.stream()
                 .map(e -> mapper.map(e, NicRecord.class))
                 .toList();
+        RequestTimings.stop(Phase.MAPPING, start);
+        return records;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NicRecord> getByBirthYears(int fromYear, int toYear) {
+        checkYearRange(fromYear, toYear);
+        long start = RequestTimings.start();
+        List<NicRecord> records = repository.findRecordsByBirthYear(fromYear, toYear);
+        RequestTimings.stop(Phase.DB_READ, start);
+        return records;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BirthYearStats> getBirthYearStats(int fromYear, int toYear) {
+        checkYearRange(fromYear, toYear);
+        long start = RequestTimings.start();
+        List<BirthYearStats> stats = repository.countByBirthYear(fromYear, toYear);
+        RequestTimings.stop(Phase.DB_READ, start);
+        return stats;
+    }
+
+    public void checkYearRange(Integer fromYear, Integer toYear) {
+        if ((fromYear == null) != (toYear == null)) {
+            throw new IllegalArgumentException("Both fromYear and toYear are required for a year range");
+        }
+        if (fromYear != null && fromYear > toYear) {
+            throw new IllegalArgumentException("fromYear must not be after toYear");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DataVersion getDataVersion() {
+        long start = RequestTimings.start();
+        DataVersion version = repository.findDataVersion();
+        RequestTimings.stop(Phase.DB_READ, start);
+        return version;
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<NicRecord> consumer) {
+        try (Stream<NicRecord> records = repository.streamAll()) {
+            records.forEach(consumer);
+        }
     }
 }
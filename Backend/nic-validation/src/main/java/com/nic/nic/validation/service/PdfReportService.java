@@ -4,6 +4,8 @@ import com.nic.nic.validation.dto.NicRecord;
 import com.nic.nic.validation.entity.NicRecordEntity;
 import com.nic.nic.validation.repository.NicRecordRepository;
 import com.nic.nic.validation.util.ReportUtils;
+import com.nic.nic.validation.util.RequestTimings;
+import com.nic.nic.validation.util.RequestTimings.Phase;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
 import org.openpdf.text.*;
@@ -11,14 +13,17 @@ import org.openpdf.text.Font;
 import org.openpdf.text.pdf.PdfPCell;
 import org.openpdf.text.pdf.PdfPTable;
 import org.openpdf.text.pdf.PdfWriter;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.awt.*;
 import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+@Lazy
 @Service
 @RequiredArgsConstructor
 public class PdfReportService {
@@ -26,13 +31,26 @@ public class PdfReportService {
     private final NicRecordRepository repository;
     private final ModelMapper modelMapper;
     @Async
-    public CompletableFuture<byte[]> generatePdfReport() {
+    @Transactional(readOnly = true)
+    public CompletableFuture<byte[]> generatePdfReport(Integer fromYear, Integer toYear) {
 
-   List<NicRecordEntity> entities = repository.findAll();
-           List<NicRecord> records = entities.stream()
-                   .map(entity -> modelMapper.map(entity, NicRecord.class))
-                   .toList();
+        long start = RequestTimings.start();
+        List<NicRecordEntity> entities = repository.findForReport(fromYear, toYear);
+        RequestTimings.stop(Phase.DB_READ, start);
 
+        start = RequestTimings.start();
+        List<NicRecord> records = entities.stream()
+                .map(entity -> modelMapper.map(entity, NicRecord.class))
+                .toList();
+        RequestTimings.stop(Phase.MAPPING, start);
+
+        start = RequestTimings.start();
+        byte[] pdf = render(records);
+        RequestTimings.stop(Phase.REPORT, start);
+        return CompletableFuture.completedFuture(pdf);
+    }
+
+    public byte[] render(List<NicRecord> records) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         Document document = new Document(PageSize.A4);
 
@@ -60,7 +78,7 @@ public class PdfReportService {
         document.add(table);
         document.close();
 
-        return CompletableFuture.completedFuture(outputStream.toByteArray());
+        return outputStream.toByteArray();
     }
 
     private void addTableRow(PdfPTable table, NicRecord nicRecord) {
@@ -1,5 +1,6 @@
 package com.nic.nic.validation.service;
 
+import com.nic.nic.validation.dto.AuthenticatedUser;
 import com.nic.nic.validation.entity.User;
 import com.nic.nic.validation.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,11 +17,7 @@ public class UserDetailService implements UserDetailsService {
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .authorities(user.getAuthorities())
-                .build();
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getPassword(), user.getAuthorities());
     }
 
 }
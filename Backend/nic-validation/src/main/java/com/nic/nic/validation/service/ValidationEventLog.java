@@ -0,0 +1,235 @@
+package com.nic.nic.validation.service;
+
+import com.nic.nic.validation.dto.ValidationEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of every NIC validation, written through memory-mapped segment files.
+ *
+ * <p>Each event is a fixed {@value #RECORD_SIZE}-byte record: the NIC packed into a long plus its
+ * V/X suffix, birth date as epoch day, gender, age, timestamp, user id and a CRC32C of those bytes.
+ * Segments are pre-sized files named after the sequence of their first record. Unwritten or torn
+ * records fail the CRC, so readers stop there and the writer resumes at that slot after a restart.
+ * The page cache is forced to disk every {@code app.event-log.flush-ms}. One directory belongs to
+ * one application instance.
+ */
+@Slf4j
+@Service
+public class ValidationEventLog {
+
+    public static final int RECORD_SIZE = 36;
+
+    private static final int PAYLOAD_SIZE = 32;
+    private static final String SEGMENT_PREFIX = "validation-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final byte MALE = 'M';
+    private static final byte FEMALE = 'F';
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentRecords;
+    private final CRC32C crc = new CRC32C();
+
+    private MappedByteBuffer segment;
+    private long segmentBase;
+    private int segmentCapacity;
+    private int written;
+    private boolean dirty;
+
+    public ValidationEventLog(@Value("${app.event-log.enabled:true}") boolean enabled,
+                              @Value("${app.event-log.dir:data/event-log}") String directory,
+                              @Value("${app.event-log.segment-records:1048576}") int segmentRecords) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+        this.segmentRecords = segmentRecords;
+    }
+
+    /**
+     * Appends one validation. The segment is opened on first use so startup does no file I/O.
+     * A failed write is logged and does not fail the validation that caused it.
+     */
+    public synchronized void append(String nicNumber, LocalDate dob, String gender, int age, long userId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            if (segment == null) {
+                open();
+            }
+            if (written == segmentCapacity) {
+                rotate();
+            }
+            int offset = written * RECORD_SIZE;
+            boolean newFormat = nicNumber.length() == 12;
+            segment.putLong(offset, Long.parseLong(newFormat ? nicNumber : nicNumber.substring(0, 9)));
+            segment.putInt(offset + 8, (int) dob.toEpochDay());
+            segment.put(offset + 12, newFormat ? 0 : (byte) nicNumber.charAt(9));
+            segment.put(offset + 13, "FEMALE".equals(gender) ? FEMALE : MALE);
+            segment.putShort(offset + 14, (short) age);
+            segment.putLong(offset + 16, System.currentTimeMillis());
+            segment.putLong(offset + 24, userId);
+            segment.putInt(offset + PAYLOAD_SIZE, checksum(segment, offset));
+            written++;
+            dirty = true;
+        } catch (IOException | RuntimeException err) {
+            log.error("Could not append validation event for {}", nicNumber, err);
+        }
+    }
+
+    /**
+     * Calls {@code consumer} for every event from {@code fromSequence} on, oldest first.
+     *
+     * @return number of events read
+     */
+    public long replay(long fromSequence, Consumer<ValidationEvent> consumer) {
+        return read(fromSequence, Long.MAX_VALUE, consumer);
+    }
+
+    public List<ValidationEvent> read(long fromSequence, int limit) {
+        List<ValidationEvent> events = new ArrayList<>(Math.min(limit, 1000));
+        read(fromSequence, limit, events::add);
+        return events;
+    }
+
+    @Scheduled(fixedDelayString = "${app.event-log.flush-ms:1000}")
+    public synchronized void flush() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private long read(long fromSequence, long limit, Consumer<ValidationEvent> consumer) {
+        if (!enabled || !Files.isDirectory(directory)) {
+            return 0;
+        }
+        long count = 0;
+        try {
+            for (Path path : segments()) {
+                long base = baseOf(path);
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    int records = (int) (channel.size() / RECORD_SIZE);
+                    if (base + records <= fromSequence) {
+                        continue;
+                    }
+                    ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) records * RECORD_SIZE);
+                    CRC32C check = new CRC32C();
+                    for (int i = (int) Math.max(0, fromSequence - base); i < records && count < limit; i++) {
+                        int offset = i * RECORD_SIZE;
+                        check.reset();
+                        check.update(buffer.slice(offset, PAYLOAD_SIZE));
+                        if ((int) check.getValue() != buffer.getInt(offset + PAYLOAD_SIZE)) {
+                            break;
+                        }
+                        consumer.accept(decode(buffer, offset, base + i));
+                        count++;
+                    }
+                }
+                if (count == limit) {
+                    break;
+                }
+            }
+        } catch (IOException err) {
+            throw new UncheckedIOException("Could not read validation event log in " + directory, err);
+        }
+        return count;
+    }
+
+    private ValidationEvent decode(ByteBuffer buffer, int offset, long sequence) {
+        long digits = buffer.getLong(offset);
+        byte suffix = buffer.get(offset + 12);
+        String nicNumber = suffix == 0
+                ? String.format("%012d", digits)
+                : String.format("%09d%c", digits, (char) suffix);
+        return new ValidationEvent(
+                sequence,
+                nicNumber,
+                LocalDate.ofEpochDay(buffer.getInt(offset + 8)),
+                buffer.get(offset + 13) == FEMALE ? "FEMALE" : "MALE",
+                buffer.getShort(offset + 14),
+                Instant.ofEpochMilli(buffer.getLong(offset + 16)),
+                buffer.getLong(offset + 24));
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = segments();
+        if (segments.isEmpty()) {
+            map(0);
+            return;
+        }
+        Path last = segments.get(segments.size() - 1);
+        map(baseOf(last));
+        while (written < segmentCapacity && checksum(segment, written * RECORD_SIZE)
+                == segment.getInt(written * RECORD_SIZE + PAYLOAD_SIZE)) {
+            written++;
+        }
+        log.info("Validation event log {} resumes at sequence {}", directory, segmentBase + written);
+    }
+
+    private void rotate() throws IOException {
+        segment.force();
+        dirty = false;
+        map(segmentBase + written);
+    }
+
+    private void map(long base) throws IOException {
+        Path path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, base, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segmentCapacity = (int) Math.max(segmentRecords, channel.size() / RECORD_SIZE);
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentCapacity * RECORD_SIZE);
+        }
+        segmentBase = base;
+        written = 0;
+    }
+
+    private int checksum(ByteBuffer buffer, int offset) {
+        crc.reset();
+        crc.update(buffer.slice(offset, PAYLOAD_SIZE));
+        return (int) crc.getValue();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long baseOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
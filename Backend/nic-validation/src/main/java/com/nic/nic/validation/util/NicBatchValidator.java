@@ -0,0 +1,281 @@
+package com.nic.nic.validation.util;
+
+import com.nic.nic.validation.dto.NicBatchResult;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Bulk NIC validation over a packed buffer of fixed-width ASCII records. Same rules as
+ * {@code NicRecordService}: 12 digits, or 9 digits followed by V/X (either case) and two bytes of
+ * space or NUL padding.
+ *
+ * <p>{@link #validate} checks and decodes eight bytes at a time in a {@code long} (SWAR), read
+ * from a {@code byte[]} through little-endian array views, four records per loop iteration;
+ * {@link #validateScalar} is the byte-by-byte reference with identical output.
+ */
+public class NicBatchValidator {
+    private NicBatchValidator() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static final int RECORD_WIDTH = 12;
+
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long SIXES = 0x0606060606060606L;
+    private static final int INT_HIGH_NIBBLES = 0xF0F0F0F0;
+    private static final int INT_ZEROS = 0x30303030;
+    private static final int INT_SIXES = 0x06060606;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Packs NIC strings into fixed-width records, right-padding old-format numbers with spaces.
+     */
+    public static ByteBuffer pack(Collection<String> nics) {
+        ByteBuffer buffer = ByteBuffer.allocate(nics.size() * RECORD_WIDTH);
+        byte[] record = new byte[RECORD_WIDTH];
+        for (String nic : nics) {
+            byte[] bytes = nic == null ? new byte[0] : nic.trim().getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < RECORD_WIDTH; i++) {
+                record[i] = i < bytes.length ? bytes[i] : (byte) ' ';
+            }
+            buffer.put(record);
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Validates every record between the buffer's position and limit into {@code result}. Heap
+     * buffers are read through their backing array; other buffers are copied into one first.
+     *
+     * @return number of valid records
+     */
+    public static int validate(ByteBuffer records, NicBatchResult result) {
+        if (records.hasArray()) {
+            return validate(records.array(), records.arrayOffset() + records.position(), records.remaining(), result);
+        }
+        byte[] copy = new byte[records.remaining()];
+        records.get(records.position(), copy);
+        return validate(copy, 0, copy.length, result);
+    }
+
+    /**
+     * Validates the records in {@code records[offset, offset + length)} into {@code result}.
+     *
+     * @return number of valid records
+     */
+    public static int validate(byte[] records, int offset, int length, NicBatchResult result) {
+        int count = recordCount(length, result);
+        Objects.checkFromIndexSize(offset, length, records.length);
+        byte[] status = result.getStatus();
+        short[] birthYear = result.getBirthYear();
+        short[] dayOfYear = result.getDayOfYear();
+        int valid = 0;
+
+        // Four records per iteration, so their independent multiply and mask chains overlap.
+        int i = 0;
+        for (; i + 3 < count; i += 4) {
+            int at = offset + i * RECORD_WIDTH;
+            valid += decode(i, (long) LONGS.get(records, at), (int) INTS.get(records, at + 8),
+                    status, birthYear, dayOfYear)
+                    + decode(i + 1, (long) LONGS.get(records, at + 12), (int) INTS.get(records, at + 20),
+                    status, birthYear, dayOfYear)
+                    + decode(i + 2, (long) LONGS.get(records, at + 24), (int) INTS.get(records, at + 32),
+                    status, birthYear, dayOfYear)
+                    + decode(i + 3, (long) LONGS.get(records, at + 36), (int) INTS.get(records, at + 44),
+                    status, birthYear, dayOfYear);
+        }
+        for (; i < count; i++) {
+            int at = offset + i * RECORD_WIDTH;
+            valid += decode(i, (long) LONGS.get(records, at), (int) INTS.get(records, at + 8),
+                    status, birthYear, dayOfYear);
+        }
+
+        result.setCount(count);
+        return valid;
+    }
+
+    /**
+     * Byte-at-a-time equivalent of {@link #validate}.
+     */
+    public static int validateScalar(ByteBuffer records, NicBatchResult result) {
+        int count = recordCount(records.remaining(), result);
+        int base = records.position();
+        byte[] status = result.getStatus();
+        short[] birthYear = result.getBirthYear();
+        short[] dayOfYear = result.getDayOfYear();
+        int valid = 0;
+
+        for (int i = 0; i < count; i++) {
+            int offset = base + i * RECORD_WIDTH;
+            int digits = 0;
+            while (digits < RECORD_WIDTH && isDigit(records.get(offset + digits))) {
+                digits++;
+            }
+
+            int year;
+            int dayCode;
+            if (digits == 12) {
+                year = number(records, offset, 4);
+                dayCode = number(records, offset + 4, 3);
+            } else if (digits == 9 && isSuffix(records.get(offset + 9))
+                    && isPadding(records.get(offset + 10)) && isPadding(records.get(offset + 11))) {
+                int yearSuffix = number(records, offset, 2);
+                year = yearSuffix <= 29 ? 2000 + yearSuffix : 1900 + yearSuffix;
+                dayCode = number(records, offset + 2, 3);
+            } else {
+                year = 0;
+                dayCode = 0;
+            }
+
+            valid += decodeScalar(i, year, dayCode, status, birthYear, dayOfYear);
+        }
+
+        result.setCount(count);
+        return valid;
+    }
+
+    private static int decodeScalar(int i, int year, int dayCode,
+                              byte[] status, short[] birthYear, short[] dayOfYear) {
+        boolean female = dayCode > 500;
+        int day = female ? dayCode - 500 : dayCode;
+        boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+
+        if (day < 1 || day > (leap ? 366 : 365)) {
+            status[i] = NicBatchResult.INVALID;
+            birthYear[i] = 0;
+            dayOfYear[i] = 0;
+            return 0;
+        }
+        status[i] = female ? NicBatchResult.FEMALE : NicBatchResult.MALE;
+        birthYear[i] = (short) year;
+        dayOfYear[i] = (short) day;
+        return 1;
+    }
+
+    /**
+     * Decodes one record given as its first eight bytes and last four, little-endian, into slot
+     * {@code i}. Branch-free: both formats are decoded and the right one selected with masks, so a
+     * random mix of old/new/invalid numbers costs no mispredictions. Every flag is an int that is 0
+     * or 1 (booleans would compile back into branches).
+     *
+     * @return 1 if the record is valid, else 0
+     */
+    private static int decode(int i, long head, int tail,
+                              byte[] status, short[] birthYear, short[] dayOfYear) {
+        // Combine adjacent digits into pairs: 16-bit lane k holds the value of digits 2k and 2k+1.
+        long digits = head - ZEROS;
+        long pairs = (digits * 10 + (digits >>> 8)) & 0x00FF00FF00FF00FFL;
+        int p0 = (int) pairs & 0xFF;
+        int p1 = (int) (pairs >>> 16) & 0xFF;
+        int p2 = (int) (pairs >>> 32) & 0xFF;
+        int d4 = (int) (digits >>> 32) & 0xFF;
+        int d6 = (int) (digits >>> 48) & 0xFF;
+
+        int newFormat = allDigits(tail);
+        int newMask = -newFormat;
+        int oldYear = p0 + 1900 + 100 * lessThan(p0, 30);
+        int year = ((p0 * 100 + p1) & newMask) | (oldYear & ~newMask);
+        int dayCode = ((p2 * 10 + d6) & newMask) | ((p1 * 10 + d4) & ~newMask);
+
+        int female = lessThan(500, dayCode);
+        int day = dayCode - 500 * female;
+        int leap = isZero(year & 3) & ((divisibleBy100(year) ^ 1) | isZero(year & 15));
+        int ok = allDigits(head) & (newFormat | isOldSuffix(tail))
+                & lessThan(0, day) & lessThan(day, 366 + leap);
+
+        status[i] = (byte) (ok + ok * female);
+        birthYear[i] = (short) (year & -ok);
+        dayOfYear[i] = (short) (day & -ok);
+        return ok;
+    }
+
+    private static int recordCount(int length, NicBatchResult result) {
+        if (length % RECORD_WIDTH != 0) {
+            throw new IllegalArgumentException("Buffer length is not a multiple of " + RECORD_WIDTH + " bytes");
+        }
+        int count = length / RECORD_WIDTH;
+        if (count > result.capacity()) {
+            throw new IllegalArgumentException("Result capacity " + result.capacity() + " is smaller than " + count + " records");
+        }
+        return count;
+    }
+
+    /**
+     * 1 if every byte is '0'..'9' (high nibble 3, and adding 6 does not carry out of the low nibble), else 0.
+     */
+    private static int allDigits(long x) {
+        long bad = ((x & HIGH_NIBBLES) ^ ZEROS) | (((x + SIXES) & HIGH_NIBBLES) ^ ZEROS);
+        return (int) ((bad | -bad) >>> 63) ^ 1;
+    }
+
+    private static int allDigits(int x) {
+        int bad = ((x & INT_HIGH_NIBBLES) ^ INT_ZEROS) | (((x + INT_SIXES) & INT_HIGH_NIBBLES) ^ INT_ZEROS);
+        return ((bad | -bad) >>> 31) ^ 1;
+    }
+
+    /**
+     * Bytes 8..11 of an old-format record: a digit, V or X in either case, then two bytes that are
+     * each space or NUL (clearing bit 5 leaves zero).
+     */
+    private static int isOldSuffix(int tail) {
+        int suffix = (tail >>> 8) & 0xDF;
+        return lessThan((tail & 0xFF) ^ '0', 10)
+                & (isZero(suffix ^ 'V') | isZero(suffix ^ 'X'))
+                & isZero((tail >>> 16) & 0xDFDF);
+    }
+
+    /**
+     * Multiply-by-inverse divisibility test, exact for {@code year} in 0..9999.
+     */
+    private static int divisibleBy100(int year) {
+        return lessThan(0x028F5C28L, (year * 0xC28F5C29) & 0xFFFFFFFFL) ^ 1;
+    }
+
+    /**
+     * 1 if {@code a < b}, else 0; both operands well inside the int range.
+     */
+    private static int lessThan(int a, int b) {
+        return (a - b) >>> 31;
+    }
+
+    private static int lessThan(long a, long b) {
+        return (int) ((a - b) >>> 63);
+    }
+
+    /**
+     * 1 if {@code x == 0}, else 0; {@code x} must be non-negative.
+     */
+    private static int isZero(int x) {
+        return (x - 1) >>> 31;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isSuffix(byte b) {
+        int upper = b & 0xDF;
+        return upper == 'V' || upper == 'X';
+    }
+
+    private static boolean isPadding(byte b) {
+        return b == ' ' || b == 0;
+    }
+
+    private static int number(ByteBuffer buffer, int offset, int length) {
+        int value = 0;
+        for (int i = 0; i < length; i++) {
+            value = value * 10 + (buffer.get(offset + i) - '0');
+        }
+        return value;
+    }
+}
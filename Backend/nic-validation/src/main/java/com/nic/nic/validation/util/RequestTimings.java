@@ -0,0 +1,123 @@
+package com.nic.nic.validation.util;
+
+import java.util.Locale;
+
+/**
+ * Per-request phase timings for sampled requests, kept in a thread local by
+ * {@code ServerTimingFilter} and carried to executor threads by the task decorator in
+ * {@code AsyncConfig}. For unsampled requests {@link #start()} returns 0 and
+ * {@link #stop(Phase, long)} does nothing, so instrumented code pays one thread-local read.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        AUTH("auth"),
+        USER("user"),
+        DB_READ("db-read"),
+        DB_WRITE("db-write"),
+        EVENT_LOG("event-log"),
+        MAPPING("map"),
+        REPORT("report"),
+        RENDER("render");
+
+        private final String metric;
+
+        Phase(String metric) {
+            this.metric = metric;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private long renderStartNanos;
+
+    private RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    public static RequestTimings begin(long startNanos) {
+        RequestTimings timings = new RequestTimings(startNanos);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Makes {@code timings} current on this thread, for request work handed to another thread.
+     * Pair with {@link #end()}.
+     */
+    public static void attach(RequestTimings timings) {
+        CURRENT.set(timings);
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static long start() {
+        return CURRENT.get() == null ? 0 : System.nanoTime();
+    }
+
+    public static void stop(Phase phase, long start) {
+        if (start == 0) {
+            return;
+        }
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Marks the point where the handler is done and the body starts being written.
+     */
+    public void markRenderStart() {
+        if (renderStartNanos == 0) {
+            renderStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Closes the render phase, if one was started, at {@code endNanos}.
+     */
+    public void finish(long endNanos) {
+        if (renderStartNanos != 0) {
+            phaseNanos[Phase.RENDER.ordinal()] = endNanos - renderStartNanos;
+        }
+    }
+
+    /**
+     * {@code Server-Timing} header value. {@code app} is the time spent before rendering, or so far.
+     */
+    public String toServerTiming() {
+        long appEnd = renderStartNanos != 0 ? renderStartNanos : System.nanoTime();
+        StringBuilder header = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            long nanos = phaseNanos[phase.ordinal()];
+            if (nanos > 0) {
+                header.append(phase.metric).append(";dur=").append(millis(nanos)).append(", ");
+            }
+        }
+        return header.append("app;dur=").append(millis(appEnd - startNanos)).toString();
+    }
+
+    /**
+     * Phase breakdown as {@code key=value} pairs for the slow-request log.
+     */
+    public String toLogFields() {
+        StringBuilder fields = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            fields.append(' ').append(phase.metric.replace('-', '_')).append("_ms=").append(millis(phaseNanos[phase.ordinal()]));
+        }
+        return fields.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,27 @@
+-- Schema for the local in-memory replica. Flyway only migrates the primary,
+-- so keep this in step with db/migration/h2.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    token VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS nic (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    nic_number VARCHAR(12) NOT NULL UNIQUE,
+    dob DATE NOT NULL,
+    birth_year INT NOT NULL,
+    gender VARCHAR(10) NOT NULL,
+    age INT,
+    birth_month INT,
+    birth_day INT,
+    validated_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_nic_updated_at ON nic (updated_at);
+CREATE INDEX IF NOT EXISTS idx_nic_birthday ON nic (birth_month, birth_day);
+CREATE INDEX IF NOT EXISTS idx_nic_birth_year ON nic (birth_year);
@@ -0,0 +1,18 @@
+-- H2 counterpart of db/migration/mysql for the local profile.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    token VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS nic (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    nic_number VARCHAR(12) NOT NULL UNIQUE,
+    dob DATE NOT NULL,
+    gender VARCHAR(10) NOT NULL,
+    age INT,
+    validated_at TIMESTAMP(6)
+);
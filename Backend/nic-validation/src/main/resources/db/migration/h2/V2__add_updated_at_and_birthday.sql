@@ -0,0 +1,8 @@
+ALTER TABLE nic ADD COLUMN birth_month INT;
+ALTER TABLE nic ADD COLUMN birth_day INT;
+ALTER TABLE nic ADD COLUMN updated_at TIMESTAMP(6);
+
+UPDATE nic SET birth_month = MONTH(dob), birth_day = DAY_OF_MONTH(dob), updated_at = validated_at;
+
+CREATE INDEX idx_nic_updated_at ON nic (updated_at);
+CREATE INDEX idx_nic_birthday ON nic (birth_month, birth_day);
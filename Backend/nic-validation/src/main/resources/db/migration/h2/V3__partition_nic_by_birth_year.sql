@@ -0,0 +1,5 @@
+-- H2 has no range partitioning; the column and its index keep the queries identical.
+ALTER TABLE nic ADD COLUMN birth_year INT;
+UPDATE nic SET birth_year = YEAR(dob);
+ALTER TABLE nic ALTER COLUMN birth_year SET NOT NULL;
+CREATE INDEX idx_nic_birth_year ON nic (birth_year);
@@ -0,0 +1,6 @@
+-- Last date each maintenance job completed, shared by every instance.
+CREATE TABLE job_run (
+    name VARCHAR(64) NOT NULL,
+    completed_on DATE NOT NULL,
+    PRIMARY KEY (name)
+);
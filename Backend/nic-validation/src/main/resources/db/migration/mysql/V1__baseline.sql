@@ -0,0 +1,23 @@
+-- Schema of the last release, created by Hibernate (ddl-auto=update). Existing databases are
+-- baselined at this version, so this script only runs on an empty database.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255) NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255),
+    token VARCHAR(255),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_users_username (username)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS nic (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    nic_number VARCHAR(12) NOT NULL,
+    dob DATE NOT NULL,
+    gender VARCHAR(10) NOT NULL,
+    age INT,
+    validated_at DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_nic_nic_number (nic_number)
+) ENGINE = InnoDB;
@@ -0,0 +1,11 @@
+-- Columns added after the last release: updated_at backs the listing validators, birth_month and
+-- birth_day let the daily age refresh find today's birthdays through an index.
+ALTER TABLE nic
+    ADD COLUMN birth_month INT,
+    ADD COLUMN birth_day INT,
+    ADD COLUMN updated_at DATETIME(6);
+
+UPDATE nic SET birth_month = MONTH(dob), birth_day = DAYOFMONTH(dob), updated_at = validated_at;
+
+CREATE INDEX idx_nic_updated_at ON nic (updated_at);
+CREATE INDEX idx_nic_birthday ON nic (birth_month, birth_day);
@@ -0,0 +1,42 @@
+-- Range-partition nic by birth decade so year-scoped queries only touch matching partitions.
+-- MySQL requires the partitioning column in every unique key, hence (id, birth_year) and
+-- (nic_number, birth_year); a NIC always decodes to the same birth year, so NIC numbers stay unique.
+-- The table is copied and swapped because the unique key Hibernate created has a generated name.
+CREATE TABLE nic_partitioned (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    nic_number VARCHAR(12) NOT NULL,
+    dob DATE NOT NULL,
+    birth_year INT NOT NULL,
+    gender VARCHAR(10) NOT NULL,
+    age INT,
+    birth_month INT,
+    birth_day INT,
+    validated_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id, birth_year),
+    UNIQUE KEY uk_nic_number_birth_year (nic_number, birth_year),
+    KEY idx_nic_birth_year (birth_year),
+    KEY idx_nic_updated_at (updated_at),
+    KEY idx_nic_birthday (birth_month, birth_day)
+) ENGINE = InnoDB
+PARTITION BY RANGE (birth_year) (
+    PARTITION p_before_1940 VALUES LESS THAN (1940),
+    PARTITION p1940s VALUES LESS THAN (1950),
+    PARTITION p1950s VALUES LESS THAN (1960),
+    PARTITION p1960s VALUES LESS THAN (1970),
+    PARTITION p1970s VALUES LESS THAN (1980),
+    PARTITION p1980s VALUES LESS THAN (1990),
+    PARTITION p1990s VALUES LESS THAN (2000),
+    PARTITION p2000s VALUES LESS THAN (2010),
+    PARTITION p2010s VALUES LESS THAN (2020),
+    PARTITION p2020s VALUES LESS THAN (2030),
+    PARTITION p_future VALUES LESS THAN MAXVALUE
+);
+
+INSERT INTO nic_partitioned (id, nic_number, dob, birth_year, gender, age, birth_month, birth_day, validated_at, updated_at)
+SELECT id, nic_number, dob, YEAR(dob), gender, age, birth_month, birth_day, validated_at, updated_at
+FROM nic;
+
+RENAME TABLE nic TO nic_unpartitioned, nic_partitioned TO nic;
+
+DROP TABLE nic_unpartitioned;